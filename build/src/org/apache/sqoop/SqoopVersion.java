@@ -0,0 +1,20 @@
+// generated by src/scripts/write-version-info.sh
+package org.apache.sqoop;
+
+public class SqoopVersion {
+  public SqoopVersion() {
+  }
+
+  public static final String VERSION="1.4.4-cdh5.1.2";
+  public static final String GIT_HASH="74ef7a28d3bbea79deb6b04ac63388b84e58ed5c";
+  public static final String COMPILE_USER="";
+  public static final String COMPILE_DATE="Sat Oct 17 08:39:58 UTC 2026";
+
+  @Override
+  public String toString() {
+    return "Sqoop " + VERSION + "\n"
+        + "git commit id " + GIT_HASH + "\n"
+        + "Compiled by " + COMPILE_USER
+        + " on " + COMPILE_DATE + "\n";
+  }
+}